@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# Нагрузочный сценарий: одинаковое число параллельных GET /api/users/ и GET /api/users/{id}/photo
+# против текущего запуска приложения.
+#
+#   1) Запустить приложение без профиля, выполнить: load-test/h2load.sh h1
+#   2) Перезапустить с --spring.profiles.active=http2, выполнить: load-test/h2load.sh h2c
+#   3) Сравнить строки "traffic:" (переданные байты) и "time for request:" (задержка) в load-test/results/.
+#
+# Перед запуском: данные из seed-users.sql и фотография у пользователя PHOTO_USER_ID.
+# Если задан PHOTO_FILE, скрипт сам загрузит её через POST /api/users/{id}/photo.
+set -euo pipefail
+
+MODE="${1:?usage: h2load.sh h1|h2c}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+REQUESTS="${REQUESTS:-2000}"
+CLIENTS="${CLIENTS:-20}"
+STREAMS="${STREAMS:-10}"
+PHOTO_USER_ID="${PHOTO_USER_ID:-1}"
+AUTH="Authorization: Basic YWRtaW46YWRtaW4="
+RESULTS_DIR="$(dirname "$0")/results"
+
+case "$MODE" in
+    # Базовая конфигурация: HTTP/1.1, по одному запросу на соединение за раз (без pipelining).
+    h1)  PROTOCOL_ARGS=(--h1 -m 1) ;;
+    # Профиль http2: h2c prior knowledge, STREAMS параллельных потоков на одном соединении.
+    h2c) PROTOCOL_ARGS=(-m "$STREAMS") ;;
+    *)   echo "unknown mode: $MODE" >&2; exit 1 ;;
+esac
+
+if [[ -n "${PHOTO_FILE:-}" ]]; then
+    curl -sf -H "$AUTH" -F "file=@${PHOTO_FILE}" "$BASE_URL/api/users/$PHOTO_USER_ID/photo" > /dev/null
+fi
+
+mkdir -p "$RESULTS_DIR"
+for target in "/api/users/" "/api/users/$PHOTO_USER_ID/photo"; do
+    name="$(echo "$target" | tr '/' '_')"
+    echo "== $MODE $target (n=$REQUESTS c=$CLIENTS)"
+    # Accept-Encoding одинаков в обоих запусках: без профиля сервер его просто игнорирует.
+    h2load -n "$REQUESTS" -c "$CLIENTS" "${PROTOCOL_ARGS[@]}" \
+        -H "$AUTH" -H "Accept-Encoding: gzip" \
+        "$BASE_URL$target" | tee "$RESULTS_DIR/${MODE}${name}.txt"
+done
@@ -0,0 +1,17 @@
+-- Наполнение таблицы users тестовыми данными для нагрузочного сценария (см. h2load.sh).
+-- Запуск: psql -h localhost -U admin -d postgres -v count=500 -f load-test/seed-users.sql
+-- Таблица создаётся приложением (ddl-auto=update), поэтому приложение должно быть запущено хотя бы раз.
+\if :{?count}
+\else
+\set count 500
+\endif
+
+INSERT INTO public.users (last_name, first_name, middle_name, date_of_birth, email, phone_number)
+SELECT 'Loadtestov' || n,
+       'Load' || n,
+       'Testovich',
+       DATE '1980-01-01' + (n % 10000),
+       'load' || n || '@example.com',
+       '7900' || LPAD(n::text, 7, '0')
+FROM generate_series(1, :count) AS n
+ON CONFLICT DO NOTHING;